@@ -0,0 +1,131 @@
+package com.ticket.generator.server;
+
+import com.ticket.generator.model.Strip;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Serializes strips into a reusable byte buffer which is written to the output stream on {@link #flush(OutputStream)}.
+ * An encoder is not thread safe and is meant to be borrowed for one request at a time
+ */
+public class StripEncoder {
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final byte[] JSON_PREFIX = "{\"tickets\":[".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] JSON_SUFFIX = "]}".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] JSON_NULL = "null".getBytes(StandardCharsets.US_ASCII);
+
+    private final byte[] buffer;
+    private int position;
+
+    public StripEncoder() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    public StripEncoder(int bufferSize) {
+        buffer = new byte[bufferSize];
+    }
+
+    /**
+     * Appends a strip to the buffer without writing anything. Callers check {@link #remaining()} and flush first
+     * when there is not enough space left for the strip
+     *
+     * @param strip the strip to encode
+     * @param format the format to encode the strip with
+     * @throws IllegalStateException if there is not enough space left in the buffer for the strip
+     */
+    public void encode(Strip strip, StripFormat format) {
+        if (remaining() < format.getMaxStripSize()) {
+            throw new IllegalStateException("Not enough space left in the buffer for a " + format + " strip");
+        }
+
+        if (format == StripFormat.BINARY) {
+            encodeBinary(strip);
+        } else {
+            encodeJson(strip);
+        }
+    }
+
+    /**
+     * Writes the buffered bytes to the output stream and resets the buffer for reuse
+     *
+     * @param out the output stream the buffered bytes are written to
+     */
+    public void flush(OutputStream out) throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    public int size() {
+        return position;
+    }
+
+    public int remaining() {
+        return buffer.length - position;
+    }
+
+    public void reset() {
+        position = 0;
+    }
+
+    private void encodeBinary(Strip strip) {
+        for (int row = 0; row < Strip.ROWS_COUNT; row++) {
+            for (int column = 0; column < Strip.COLUMNS_COUNT; column++) {
+                buffer[position++] = strip.isFilled(row, column) ? (byte) strip.getNumber(row, column) : 0;
+            }
+        }
+    }
+
+    private void encodeJson(Strip strip) {
+        append(JSON_PREFIX);
+
+        for (int ticket = 0; ticket < Strip.TICKETS_COUNT; ticket++) {
+            if (ticket > 0) {
+                buffer[position++] = ',';
+            }
+            buffer[position++] = '[';
+
+            int startRow = ticket * Strip.ROWS_COUNT_PER_TICKET;
+
+            for (int row = startRow; row < startRow + Strip.ROWS_COUNT_PER_TICKET; row++) {
+                if (row > startRow) {
+                    buffer[position++] = ',';
+                }
+                buffer[position++] = '[';
+
+                for (int column = 0; column < Strip.COLUMNS_COUNT; column++) {
+                    if (column > 0) {
+                        buffer[position++] = ',';
+                    }
+
+                    if (strip.isFilled(row, column)) {
+                        appendNumber(strip.getNumber(row, column));
+                    } else {
+                        append(JSON_NULL);
+                    }
+                }
+                buffer[position++] = ']';
+            }
+            buffer[position++] = ']';
+        }
+
+        append(JSON_SUFFIX);
+        buffer[position++] = '\n';
+    }
+
+    private void appendNumber(int number) {
+        if (number >= 10) {
+            buffer[position++] = (byte) ('0' + number / 10);
+        }
+        buffer[position++] = (byte) ('0' + number % 10);
+    }
+
+    private void append(byte[] bytes) {
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+}
@@ -0,0 +1,62 @@
+package com.ticket.generator.server;
+
+import com.ticket.generator.model.Strip;
+
+public enum StripFormat {
+
+    /**
+     * One byte per position, row by row, with 0 for an unfilled position
+     */
+    BINARY("application/octet-stream", "application/octet-stream", Strip.ROWS_COUNT * Strip.COLUMNS_COUNT),
+
+    /**
+     * A JSON object with the tickets as a list of rows, with null for an unfilled position.
+     * Multiple strips are streamed as newline delimited JSON
+     */
+    JSON("application/json", "application/x-ndjson", 1024);
+
+    private final String contentType;
+    private final String streamContentType;
+    private final int maxStripSize;
+
+    StripFormat(String contentType, String streamContentType, int maxStripSize) {
+        this.contentType = contentType;
+        this.streamContentType = streamContentType;
+        this.maxStripSize = maxStripSize;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getStreamContentType() {
+        return streamContentType;
+    }
+
+    public int getMaxStripSize() {
+        return maxStripSize;
+    }
+
+    /**
+     * Resolves the format from the 'format' query parameter, falling back to the Accept header
+     *
+     * @param formatParameter the value of the 'format' query parameter, may be null
+     * @param acceptHeader the value of the Accept header, may be null
+     * @return the resolved format or null if the format parameter is unknown
+     */
+    public static StripFormat resolve(String formatParameter, String acceptHeader) {
+        if (formatParameter != null) {
+            for (StripFormat format : values()) {
+                if (format.name().equalsIgnoreCase(formatParameter)) {
+                    return format;
+                }
+            }
+            return null;
+        }
+
+        if (acceptHeader != null && acceptHeader.contains(BINARY.contentType)) {
+            return BINARY;
+        }
+        return JSON;
+    }
+}
@@ -0,0 +1,367 @@
+package com.ticket.generator.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import com.ticket.generator.model.Strip;
+import com.ticket.generator.service.StripGeneratorService;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Embedded HTTP service exposing {@link StripGeneratorService#generateStrip()}.
+ * <p>
+ * Endpoints (all GET, format selected by the 'format' query parameter or the Accept header):
+ * <ul>
+ *     <li>/strip - one random strip</li>
+ *     <li>/strip/{serial}?seed=S - the strip with the given serial number of the seeded run S (0 by default)</li>
+ *     <li>/strips?count=N - N random strips streamed with chunked encoding, N up to {@link #MAX_STRIPS_PER_REQUEST}</li>
+ *     <li>/metrics - throughput counters as JSON</li>
+ * </ul>
+ */
+public class StripServer {
+    public static final int DEFAULT_PORT = 8080;
+    public static final int MAX_STRIPS_PER_REQUEST = 10_000;
+    public static final int MAX_POOLED_ENCODERS = 64;
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final HttpServer httpServer;
+    private final ExecutorService executor;
+    private final StripGeneratorService stripGenerator;
+    private final StripServerMetrics metrics;
+    private final Queue<StripEncoder> stripEncoders;
+    private final Queue<StripEncoder> streamEncoders;
+
+    public StripServer(int port) throws IOException {
+        stripGenerator = new StripGeneratorService();
+        metrics = new StripServerMetrics();
+        stripEncoders = new ArrayBlockingQueue<>(MAX_POOLED_ENCODERS);
+        streamEncoders = new ArrayBlockingQueue<>(MAX_POOLED_ENCODERS);
+        executor = newRequestExecutor();
+
+        httpServer = HttpServer.create(new InetSocketAddress(port), 0);
+        httpServer.setExecutor(executor);
+        httpServer.createContext("/strip", handler(this::handleStrip));
+        httpServer.createContext("/strips", handler(this::handleStrips));
+        httpServer.createContext("/metrics", handler(this::handleMetrics));
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        StripServer server = new StripServer(port);
+        server.start();
+
+        System.out.println("Strip server listening on port " + server.getPort());
+    }
+
+    public void start() {
+        httpServer.start();
+    }
+
+    public void stop() {
+        httpServer.stop(0);
+        executor.shutdownNow();
+    }
+
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    public StripServerMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Creates a virtual thread per task executor when running on a JDK which supports them, so that blocking
+     * writes to slow clients do not hold platform threads. Falls back to a cached thread pool otherwise
+     *
+     * @return the executor handling the requests
+     */
+    private static ExecutorService newRequestExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    /**
+     * Derives the seed of a single strip from the seed of the run and the strip serial number, so that neighbouring
+     * serials give unrelated strips (SplitMix64 finalizer)
+     *
+     * @param seed the seed of the run
+     * @param serial the serial number of the strip within the run
+     * @return the seed used to generate the strip
+     */
+    static long stripSeed(long seed, long serial) {
+        long z = seed + (serial + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private void handleStrip(HttpExchange exchange, Map<String, String> query) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        Random random = null;
+
+        if (!isContextPath(exchange) && !path.equals("/strip/")) {
+            String serial = path.startsWith("/strip/") ? path.substring("/strip/".length()) : null;
+
+            if (serial == null || serial.contains("/")) {
+                sendError(exchange, 404, "Not found");
+                return;
+            }
+
+            Long serialNumber = parseLong(serial);
+            Long seed = parseLong(query.getOrDefault("seed", "0"));
+
+            if (serialNumber == null || serialNumber < 0 || seed == null) {
+                sendError(exchange, 400, "Invalid serial or seed");
+                return;
+            }
+            random = new Random(stripSeed(seed, serialNumber));
+        }
+
+        StripFormat format = resolveFormat(exchange, query);
+
+        if (format == null) {
+            return;
+        }
+
+        StripEncoder encoder = borrowStripEncoder();
+        try {
+            long generationStart = System.nanoTime();
+            Strip strip = random == null ? stripGenerator.generateStrip() : stripGenerator.generateStrip(random);
+            long encodingStart = System.nanoTime();
+            encoder.encode(strip, format);
+            long encodingEnd = System.nanoTime();
+
+            exchange.getResponseHeaders().set("Content-Type", format.getContentType());
+            exchange.getResponseHeaders().set("Server-Timing", String.format(Locale.ROOT,
+                    "gen;dur=%.3f, enc;dur=%.3f",
+                    (encodingStart - generationStart) / 1e6,
+                    (encodingEnd - encodingStart) / 1e6));
+            metrics.recordStrips(1, encoder.size(), encodingStart - generationStart, encodingEnd - encodingStart);
+            exchange.sendResponseHeaders(200, encoder.size());
+
+            try (OutputStream out = exchange.getResponseBody()) {
+                encoder.flush(out);
+            }
+        } finally {
+            releaseEncoder(stripEncoders, encoder);
+        }
+    }
+
+    /**
+     * Streams the strips with chunked encoding. As the headers are sent before the strips are generated, there is no
+     * Server-Timing header; the generation and encoding times are recorded in the metrics instead, each time the buffer
+     * is flushed, so an interrupted stream still counts what was sent and a long one shows up in the throughput
+     */
+    private void handleStrips(HttpExchange exchange, Map<String, String> query) throws IOException {
+        if (!isContextPath(exchange)) {
+            sendError(exchange, 404, "Not found");
+            return;
+        }
+
+        StripFormat format = resolveFormat(exchange, query);
+
+        if (format == null) {
+            return;
+        }
+
+        Long count = parseLong(query.getOrDefault("count", "1"));
+
+        if (count == null || count < 1 || count > MAX_STRIPS_PER_REQUEST) {
+            sendError(exchange, 400, "count must be between 1 and " + MAX_STRIPS_PER_REQUEST);
+            return;
+        }
+
+        StripEncoder encoder = borrowStreamEncoder();
+        try {
+            exchange.getResponseHeaders().set("Content-Type", format.getStreamContentType());
+            exchange.sendResponseHeaders(200, 0);
+
+            long bufferedStrips = 0;
+            long generationTime = 0;
+            long encodingTime = 0;
+
+            try (OutputStream out = exchange.getResponseBody()) {
+                for (long i = 0; i < count; i++) {
+                    if (encoder.remaining() < format.getMaxStripSize()) {
+                        flushStrips(encoder, out, bufferedStrips, generationTime, encodingTime);
+                        bufferedStrips = 0;
+                        generationTime = 0;
+                        encodingTime = 0;
+                    }
+
+                    long generationStart = System.nanoTime();
+                    Strip strip = stripGenerator.generateStrip();
+                    long encodingStart = System.nanoTime();
+                    encoder.encode(strip, format);
+
+                    bufferedStrips++;
+                    generationTime += encodingStart - generationStart;
+                    encodingTime += System.nanoTime() - encodingStart;
+                }
+                flushStrips(encoder, out, bufferedStrips, generationTime, encodingTime);
+            }
+        } finally {
+            releaseEncoder(streamEncoders, encoder);
+        }
+    }
+
+    /**
+     * Writes the buffered strips to the output stream and records them in the metrics once they are written
+     */
+    private void flushStrips(StripEncoder encoder, OutputStream out, long strips, long generationTime,
+                             long encodingTime) throws IOException {
+        int bytes = encoder.size();
+        encoder.flush(out);
+        metrics.recordStrips(strips, bytes, generationTime, encodingTime);
+    }
+
+    private void handleMetrics(HttpExchange exchange, Map<String, String> query) throws IOException {
+        if (!isContextPath(exchange)) {
+            sendError(exchange, 404, "Not found");
+            return;
+        }
+
+        byte[] body = metrics.toJson().getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().set("Content-Type", StripFormat.JSON.getContentType());
+        exchange.sendResponseHeaders(200, body.length);
+
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private HttpHandler handler(StripRequestHandler requestHandler) {
+        return exchange -> {
+            try {
+                metrics.recordRequest();
+
+                if (!"GET".equals(exchange.getRequestMethod())) {
+                    exchange.getResponseHeaders().set("Allow", "GET");
+                    sendError(exchange, 405, "Only GET is supported");
+                    return;
+                }
+
+                requestHandler.handle(exchange, parseQuery(exchange.getRequestURI()));
+            } finally {
+                exchange.close();
+            }
+        };
+    }
+
+    /**
+     * Resolves the format of the strips, answering 400 if the format parameter is unknown
+     *
+     * @return the format or null if the request was already answered
+     */
+    private static StripFormat resolveFormat(HttpExchange exchange, Map<String, String> query) throws IOException {
+        StripFormat format = StripFormat.resolve(query.get("format"), exchange.getRequestHeaders().getFirst("Accept"));
+
+        if (format == null) {
+            sendError(exchange, 400, "Unknown format " + query.get("format"));
+        }
+        return format;
+    }
+
+    /**
+     * @return an encoder with a buffer just large enough for one strip in any format
+     */
+    private StripEncoder borrowStripEncoder() {
+        StripEncoder encoder = stripEncoders.poll();
+        return encoder != null ? encoder : new StripEncoder(StripFormat.JSON.getMaxStripSize());
+    }
+
+    private StripEncoder borrowStreamEncoder() {
+        StripEncoder encoder = streamEncoders.poll();
+        return encoder != null ? encoder : new StripEncoder();
+    }
+
+    /**
+     * Returns the encoder to its pool. Encoders beyond {@link #MAX_POOLED_ENCODERS} are dropped, so a burst of
+     * concurrent requests does not keep their buffers allocated
+     */
+    private static void releaseEncoder(Queue<StripEncoder> pool, StripEncoder encoder) {
+        encoder.reset();
+        pool.offer(encoder);
+    }
+
+    /**
+     * HttpServer matches contexts by path prefix, so handlers without sub paths check for an exact match
+     */
+    private static boolean isContextPath(HttpExchange exchange) {
+        return exchange.getRequestURI().getPath().equals(exchange.getHttpContext().getPath());
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        // a response to HEAD has no body, so no content length is declared. HttpServer completes such a response
+        // as soon as the headers are sent and keeps the connection alive only if the request body was consumed
+        if ("HEAD".equals(exchange.getRequestMethod())) {
+            exchange.getRequestBody().close();
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+
+        byte[] body = message.getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Splits the raw query on '&' and '=' before decoding, so encoded separators stay part of a name or value
+     */
+    private static Map<String, String> parseQuery(URI uri) {
+        Map<String, String> query = new HashMap<>();
+        String rawQuery = uri.getRawQuery();
+
+        if (rawQuery == null) {
+            return query;
+        }
+
+        for (String parameter : rawQuery.split("&")) {
+            int separator = parameter.indexOf('=');
+
+            if (separator > 0) {
+                query.put(URLDecoder.decode(parameter.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+
+    private static Long parseLong(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    private interface StripRequestHandler {
+        void handle(HttpExchange exchange, Map<String, String> query) throws IOException;
+    }
+}
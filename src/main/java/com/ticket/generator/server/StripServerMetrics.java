@@ -0,0 +1,64 @@
+package com.ticket.generator.server;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Throughput counters of a {@link StripServer}, safe to update from many request threads
+ */
+public class StripServerMetrics {
+
+    private final long startTime;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder strips = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder generationNanos = new LongAdder();
+    private final LongAdder encodingNanos = new LongAdder();
+
+    public StripServerMetrics() {
+        startTime = System.nanoTime();
+    }
+
+    public void recordRequest() {
+        requests.increment();
+    }
+
+    public void recordStrips(long count, long bytesCount, long generationTime, long encodingTime) {
+        strips.add(count);
+        bytes.add(bytesCount);
+        generationNanos.add(generationTime);
+        encodingNanos.add(encodingTime);
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getStrips() {
+        return strips.sum();
+    }
+
+    public long getBytes() {
+        return bytes.sum();
+    }
+
+    /**
+     * @return the metrics as a JSON object, with the throughput computed over the whole server uptime
+     */
+    public String toJson() {
+        long uptimeNanos = System.nanoTime() - startTime;
+        long stripsCount = strips.sum();
+        double uptimeSeconds = uptimeNanos / 1e9;
+
+        return String.format(Locale.ROOT,
+                "{\"uptimeMillis\":%d,\"requests\":%d,\"strips\":%d,\"bytes\":%d,"
+                        + "\"stripsPerSecond\":%.1f,\"avgGenerationMicros\":%.3f,\"avgEncodingMicros\":%.3f}",
+                uptimeNanos / 1_000_000,
+                requests.sum(),
+                stripsCount,
+                bytes.sum(),
+                uptimeSeconds > 0 ? stripsCount / uptimeSeconds : 0,
+                stripsCount > 0 ? generationNanos.sum() / 1e3 / stripsCount : 0,
+                stripsCount > 0 ? encodingNanos.sum() / 1e3 / stripsCount : 0);
+    }
+}
@@ -4,6 +4,8 @@ import com.ticket.generator.model.Strip;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class StripGeneratorService {
 
@@ -19,10 +21,20 @@ public class StripGeneratorService {
      * @return the generated strip
      */
     public Strip generateStrip() {
+        return generateStrip(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Generate a Bingo 90 strip using the given source of randomness. The same seeded random produces the same strip
+     *
+     * @param random the source of randomness used for positions and numbers
+     * @return the generated strip
+     */
+    public Strip generateStrip(Random random) {
         Strip strip = new Strip();
 
-        backtrackingPositionGeneration(strip);
-        replacePositionsWithRandomNumbers(strip);
+        backtrackingPositionGeneration(strip, random);
+        replacePositionsWithRandomNumbers(strip, random);
         return strip;
     }
 
@@ -30,10 +42,11 @@ public class StripGeneratorService {
      * Generates positions for a strip with a recursive backtracking algorithm
      *
      * @param strip the strip to be filled with generated positions
+     * @param random the source of randomness used to shuffle possible positions
      *
      * @return true if all positions were filled. False otherwise
      */
-    private boolean backtrackingPositionGeneration(Strip strip) {
+    private boolean backtrackingPositionGeneration(Strip strip, Random random) {
         //validate if the current state can lead to a solution
         if (!stripValidator.hasValidState(strip)) {
             return false;
@@ -48,7 +61,7 @@ public class StripGeneratorService {
             List<Integer> possiblePositions = stripValidator.getPossiblePositionsForColumn(strip, column);
             int positionsCountLeftToBeFilled = strip.getPositionsCountToBeFilledForColumn(column);
 
-            Collections.shuffle(possiblePositions);
+            Collections.shuffle(possiblePositions, random);
 
             for (int i = 0; i < possiblePositions.size(); i++) {
 
@@ -60,7 +73,7 @@ public class StripGeneratorService {
 
                 strip.fillPosition(row, column);
 
-                if (backtrackingPositionGeneration(strip)) {
+                if (backtrackingPositionGeneration(strip, random)) {
                     return true;
                 }
 
@@ -79,14 +92,15 @@ public class StripGeneratorService {
      * Takes a strip with generated positions and randomly feels those positions with numbers
      *
      * @param strip the strip to be filled with numbers
+     * @param random the source of randomness used to shuffle possible numbers
      */
-    private void replacePositionsWithRandomNumbers(Strip strip) {
+    private void replacePositionsWithRandomNumbers(Strip strip, Random random) {
 
         for (int column = 0; column < Strip.COLUMNS_COUNT; column++) {
 
             List<Integer> possibleNumbers = strip.getPossibleNumbersPerColumn(column);
 
-            Collections.shuffle(possibleNumbers);
+            Collections.shuffle(possibleNumbers, random);
 
             int possibleNumberIndex = 0;
 
@@ -0,0 +1,87 @@
+package com.ticket.generator.server;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Load generator for a {@link StripServer} on localhost. Not part of the unit test suite, run it with
+ * <pre>
+ * java -cp target/classes:target/test-classes com.ticket.generator.server.StripServerLoadHarness \
+ *     [clients] [requests] [json|binary] [port]
+ * </pre>
+ * Each client requests one strip at a time from /strip. Without a port an embedded server is started on a free port
+ */
+public class StripServerLoadHarness {
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+        int requests = args.length > 1 ? Integer.parseInt(args[1]) : 10000;
+        String format = args.length > 2 ? args[2] : "binary";
+
+        StripServer server = null;
+        int port;
+
+        if (args.length > 3) {
+            port = Integer.parseInt(args[3]);
+        } else {
+            server = new StripServer(0);
+            server.start();
+            port = server.getPort();
+        }
+
+        try {
+            run(clients, requests, URI.create("http://localhost:" + port + "/strip?format=" + format));
+        } finally {
+            if (server != null) {
+                server.stop();
+            }
+        }
+    }
+
+    private static void run(int clients, int requests, URI uri) throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(uri).build();
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+
+        try {
+            List<Future<Long>> runs = new ArrayList<>();
+            long startTime = System.nanoTime();
+
+            for (int i = 0; i < clients; i++) {
+                int clientRequests = requests / clients + (i < requests % clients ? 1 : 0);
+
+                runs.add(executor.submit(() -> {
+                    long bytes = 0;
+                    for (int j = 0; j < clientRequests; j++) {
+                        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+                        if (response.statusCode() != 200) {
+                            throw new IllegalStateException("Unexpected status " + response.statusCode());
+                        }
+                        bytes += response.body().length;
+                    }
+                    return bytes;
+                }));
+            }
+
+            long bytes = 0;
+            for (Future<Long> run : runs) {
+                bytes += run.get();
+            }
+            double seconds = (System.nanoTime() - startTime) / 1e9;
+
+            System.out.printf(Locale.ROOT, "%d strips from %s with %d clients in %.2f s: %.1f strips/s, %.1f KB/s%n",
+                    requests, uri, clients, seconds, requests / seconds, bytes / 1024.0 / seconds);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.ticket.generator.server;
+
+import com.ticket.generator.model.Strip;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripServerTest {
+
+    private static final int BINARY_STRIP_SIZE = StripFormat.BINARY.getMaxStripSize();
+    private static final int CONCURRENT_CLIENTS = 8;
+
+    private StripServer server;
+    private HttpClient client;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = new StripServer(0);
+        server.start();
+        client = HttpClient.newHttpClient();
+        executor = Executors.newFixedThreadPool(CONCURRENT_CLIENTS);
+    }
+
+    @AfterEach
+    void stopServer() {
+        executor.shutdownNow();
+        server.stop();
+    }
+
+    /**
+     * Tests that a binary strip has every number from 1 to 90 exactly once and 15 numbers per ticket
+     */
+    @Test
+    void testBinaryStrip() throws Exception {
+        HttpResponse<byte[]> response = get("/strip?format=binary");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Server-Timing")).hasValueSatisfying(
+                value -> assertThat(value).contains("gen;dur=").contains("enc;dur="));
+        assertValidBinaryStrip(response.body(), 0);
+    }
+
+    /**
+     * Tests that a JSON strip has 6 tickets with 15 numbers each
+     */
+    @Test
+    void testJsonStrip() throws Exception {
+        HttpResponse<byte[]> response = get("/strip");
+        String body = new String(response.body());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValue("application/json");
+        assertThat(body).startsWith("{\"tickets\":[[[").endsWith("]]]}\n");
+        assertThat(body.split("null", -1)).hasSize(Strip.TICKETS_COUNT * 12 + 1);
+    }
+
+    /**
+     * Tests that the same serial and seed always give the same strip, and a different serial a different one
+     */
+    @Test
+    void testStripBySerialIsReproducible() throws Exception {
+        byte[] strip = get("/strip/7?seed=42&format=binary").body();
+
+        assertValidBinaryStrip(strip, 0);
+        assertThat(get("/strip/7?seed=42&format=binary").body()).isEqualTo(strip);
+        assertThat(get("/strip/8?seed=42&format=binary").body()).isNotEqualTo(strip);
+        assertThat(get("/strip/abc").statusCode()).isEqualTo(400);
+        assertThat(get("/strip/7?seed=%34%32&format=binary").body()).isEqualTo(strip);
+        assertThat(get("/strip/7?seed=42%26format%3Dbinary").statusCode()).isEqualTo(400);
+    }
+
+    /**
+     * Tests that the requested count of strips is streamed and recorded in the metrics
+     */
+    @Test
+    void testStreamedStrips() throws Exception {
+        HttpResponse<byte[]> response = get("/strips?count=500&format=binary");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).hasSize(500 * BINARY_STRIP_SIZE);
+        for (int i = 0; i < 500; i++) {
+            assertValidBinaryStrip(response.body(), i * BINARY_STRIP_SIZE);
+        }
+
+        String jsonLines = new String(get("/strips?count=20").body());
+        assertThat(jsonLines.split("\n")).hasSize(20);
+
+        assertThat(get("/strips?count=0").statusCode()).isEqualTo(400);
+        assertThat(get("/strips?format=xml").statusCode()).isEqualTo(400);
+        assertThat(server.getMetrics().getStrips()).isEqualTo(520);
+        assertThat(new String(get("/metrics?format=xml").body())).contains("\"strips\":520");
+    }
+
+    /**
+     * Tests that streamed strips are recorded in the metrics as they are sent, before the stream completes
+     */
+    @Test
+    void testStreamedStripsAreRecordedWhileStreaming() throws Exception {
+        HttpResponse<InputStream> response = client.send(
+                HttpRequest.newBuilder(uri("/strips?count=" + StripServer.MAX_STRIPS_PER_REQUEST + "&format=binary")).build(),
+                HttpResponse.BodyHandlers.ofInputStream());
+
+        long stripsPerFlush = StripEncoder.DEFAULT_BUFFER_SIZE / BINARY_STRIP_SIZE;
+
+        // a strip of the second flush can only arrive once the first flush has been written and recorded
+        try (InputStream body = response.body()) {
+            int length = (int) (stripsPerFlush + 1) * BINARY_STRIP_SIZE;
+            assertThat(body.readNBytes(length)).hasSize(length);
+        }
+
+        assertThat(server.getMetrics().getStrips())
+                .isGreaterThanOrEqualTo(stripsPerFlush)
+                .isLessThan(StripServer.MAX_STRIPS_PER_REQUEST);
+    }
+
+    /**
+     * Tests that paths which only share a prefix with an endpoint are not found
+     */
+    @Test
+    void testUnknownPathsAreNotFound() throws Exception {
+        assertThat(get("/strips/anything").statusCode()).isEqualTo(404);
+        assertThat(get("/stripsfoo").statusCode()).isEqualTo(404);
+        assertThat(get("/stripfoo").statusCode()).isEqualTo(404);
+        assertThat(get("/strip/7/extra").statusCode()).isEqualTo(404);
+        assertThat(get("/metrics/whatever").statusCode()).isEqualTo(404);
+        assertThat(get("/strips/anything?format=xml").statusCode()).isEqualTo(404);
+        assertThat(get("/strip/7/extra?format=xml").statusCode()).isEqualTo(404);
+    }
+
+    /**
+     * Tests that methods other than GET are rejected, without a body for HEAD
+     */
+    @Test
+    void testOnlyGetIsAllowed() throws Exception {
+        HttpResponse<byte[]> head = client.send(
+                HttpRequest.newBuilder(uri("/strip")).method("HEAD", HttpRequest.BodyPublishers.noBody()).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        HttpResponse<byte[]> post = client.send(
+                HttpRequest.newBuilder(uri("/strip")).POST(HttpRequest.BodyPublishers.noBody()).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+
+        assertThat(head.statusCode()).isEqualTo(405);
+        assertThat(head.headers().firstValue("Content-Length")).isEmpty();
+        assertThat(head.headers().firstValue("Allow")).hasValue("GET");
+        assertThat(post.statusCode()).isEqualTo(405);
+        assertThat(post.headers().firstValue("Allow")).hasValue("GET");
+    }
+
+    /**
+     * Tests that concurrent clients all get a strip and every strip is recorded in the metrics.
+     * Throughput is measured by {@link StripServerLoadHarness}
+     */
+    @Test
+    void testConcurrentRequests() throws Exception {
+        List<Future<?>> runs = new ArrayList<>();
+
+        for (int i = 0; i < CONCURRENT_CLIENTS; i++) {
+            runs.add(executor.submit(() -> {
+                for (int j = 0; j < 5; j++) {
+                    byte[] strip = get("/strip?format=binary").body();
+
+                    assertThat(strip).hasSize(BINARY_STRIP_SIZE);
+                    assertValidBinaryStrip(strip, 0);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> run : runs) {
+            run.get();
+        }
+
+        assertThat(server.getMetrics().getStrips()).isEqualTo(CONCURRENT_CLIENTS * 5);
+    }
+
+    private HttpResponse<byte[]> get(String path) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(path)).build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getPort() + path);
+    }
+
+    /**
+     * Asserts a binary encoded strip contains every number once and {@link Strip#MAX_NUMBERS_PER_TICKET}
+     * numbers per ticket
+     *
+     * @param bytes the response body
+     * @param offset the offset of the strip within the body
+     */
+    private void assertValidBinaryStrip(byte[] bytes, int offset) {
+        boolean[] seen = new boolean[91];
+
+        for (int ticket = 0; ticket < Strip.TICKETS_COUNT; ticket++) {
+            int numbersPerTicket = 0;
+
+            for (int position = 0; position < Strip.ROWS_COUNT_PER_TICKET * Strip.COLUMNS_COUNT; position++) {
+                int number = bytes[offset + ticket * Strip.ROWS_COUNT_PER_TICKET * Strip.COLUMNS_COUNT + position];
+
+                if (number != 0) {
+                    assertThat(seen[number]).isFalse();
+                    seen[number] = true;
+                    numbersPerTicket++;
+                }
+            }
+            assertThat(numbersPerTicket).isEqualTo(Strip.MAX_NUMBERS_PER_TICKET);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import java.time.Duration;
 import java.util.Date;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -31,6 +32,23 @@ class StripGeneratorServiceTest {
         assertAllNumbersAreFilled(strip);
     }
 
+    /**
+     * Tests that strips generated with the same seed are identical
+     */
+    @Test
+    void testSeededStripGenerationIsReproducible() {
+        StripGeneratorService stripGeneratorService = new StripGeneratorService();
+        Strip strip = stripGeneratorService.generateStrip(new Random(42));
+        Strip sameSeedStrip = stripGeneratorService.generateStrip(new Random(42));
+
+        assertAllNumbersAreFilled(strip);
+        for (int row = 0; row < Strip.ROWS_COUNT; row++) {
+            for (int column = 0; column < Strip.COLUMNS_COUNT; column++) {
+                assertThat(sameSeedStrip.getNumber(row, column)).isEqualTo(strip.getNumber(row, column));
+            }
+        }
+    }
+
     /**
      * Tests that generated strip met all the conditions described in the assignment
      */